@@ -1,14 +1,37 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 @RestControllerAdvice
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+
+    // 거절 응답은 내용이 고정되어 있으므로 미리 만들어 재사용한다.
+    private static final ResponseEntity<ErrorResponse> INTERNAL_ERROR =
+            ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+    private static final Map<PointErrorCode, ResponseEntity<ErrorResponse>> POINT_ERRORS = new EnumMap<>(PointErrorCode.class);
+
+    static {
+        for (PointErrorCode errorCode : PointErrorCode.values()) {
+            ErrorResponse body = new ErrorResponse(String.valueOf(errorCode.getStatus().value()), errorCode.getMessage());
+            POINT_ERRORS.put(errorCode, ResponseEntity.status(errorCode.getStatus()).body(body));
+        }
+    }
+
+    @ExceptionHandler(value = PointException.class)
+    public ResponseEntity<ErrorResponse> handlePointException(PointException e) {
+        return POINT_ERRORS.get(e.getErrorCode());
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
-        return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+        return INTERNAL_ERROR;
     }
 }
@@ -2,17 +2,16 @@ package io.hhplus.tdd.point;
 
 import io.hhplus.tdd.point.service.PointService;
 import io.hhplus.tdd.point.service.PointValidator;
+import io.hhplus.tdd.point.warmup.PointAccessRecord;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -23,6 +22,7 @@ public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
     private final PointService pointService;
+    private final PointAccessRecord pointAccessRecord;
 
     /**
      * 특정 유저의 포인트 조회
@@ -34,7 +34,8 @@ public class PointController {
     public UserPoint point(
             @PathVariable long id
     ) {
-        validateId(id);
+        PointValidator.validateId(id);
+        pointAccessRecord.record(id);
         return pointService.selectPointById(id);
     }
 
@@ -48,7 +49,8 @@ public class PointController {
     public List<PointHistory> history(
             @PathVariable long id
     ) {
-        validateId(id);
+        PointValidator.validateId(id);
+        pointAccessRecord.record(id);
         return pointService.history(id);
     }
 
@@ -64,8 +66,9 @@ public class PointController {
             @PathVariable long id,
             @RequestBody long amount
     ) {
-        validateId(id);
+        PointValidator.validateId(id);
         PointValidator.validateAmount(amount);
+        pointAccessRecord.record(id);
         return pointService.charge(id, amount);
     }
 
@@ -81,20 +84,10 @@ public class PointController {
             @PathVariable long id,
             @RequestBody long amount
     ) {
-        validateId(id);
+        PointValidator.validateId(id);
         PointValidator.validateAmount(amount);
+        pointAccessRecord.record(id);
         return pointService.use(id, amount);
     }
 
-    /**
-     * 유효한 ID인지 확인하는 메서드
-     *
-     * @param id 조회할 유저의 ID
-     */
-    private void validateId(long id) {
-        if (id <= 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID는 0 이상의 숫자여야 합니다.");
-        }
-    }
-
 }
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point;
+
+/**
+ * 포인트 충전, 사용 정책
+ */
+public final class PointPolicy {
+
+    // 최대로 충전할 수 있는 금액
+    public static final long MAX_CHARGE_AMOUNT = 10000;
+
+    private PointPolicy() {
+    }
+}
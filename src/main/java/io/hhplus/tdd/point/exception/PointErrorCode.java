@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.exception;
+
+import io.hhplus.tdd.point.PointPolicy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 포인트 요청이 거절되는 사유
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PointErrorCode {
+    INVALID_ID(HttpStatus.BAD_REQUEST, "ID는 0 이상의 숫자여야 합니다."),
+    USER_NOT_FOUND(HttpStatus.NOT_FOUND, "입력한 ID가 존재하지 않습니다."),
+    INVALID_AMOUNT(HttpStatus.BAD_REQUEST, "금액은 0보다 커야 합니다."),
+    EXCEEDED_MAX_CHARGE_AMOUNT(HttpStatus.BAD_REQUEST, "최대 충전 금액은 " + PointPolicy.MAX_CHARGE_AMOUNT + "원입니다."),
+    INSUFFICIENT_POINT(HttpStatus.BAD_REQUEST, "잔여 포인트가 부족합니다.");
+
+    private final HttpStatus status;
+    private final String message;
+}
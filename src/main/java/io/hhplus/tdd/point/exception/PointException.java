@@ -1,7 +1,17 @@
 package io.hhplus.tdd.point.exception;
 
+import lombok.Getter;
+
+/**
+ * 포인트 요청 거절 예외 (요청 값 검증 실패, 정책 위반)
+ * 요청마다 새로 만들지 않고 미리 생성한 인스턴스를 재사용하므로 스택 트레이스를 기록하지 않는다.
+ */
+@Getter
 public class PointException extends RuntimeException {
-    public PointException(String message) {
-        super(message);
+    private final PointErrorCode errorCode;
+
+    public PointException(PointErrorCode errorCode) {
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
     }
 }
@@ -5,60 +5,109 @@ import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.PointHistory;
 import io.hhplus.tdd.point.TransactionType;
 import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
 import io.hhplus.tdd.point.exception.PointException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 @RequiredArgsConstructor
 public class PointService {
 
+    private static final PointException USER_NOT_FOUND = new PointException(PointErrorCode.USER_NOT_FOUND);
+    // 유저별 락의 개수 (유저 수와 무관하게 고정)
+    private static final int LOCK_STRIPES = 1024;
+
     private final UserPointTable userPointTable;
     private final PointHistoryTable pointHistoryTable;
+    private final UserPointCache userPointCache;
+
+    // 유저별 락 : 같은 유저의 충전, 사용, 캐시 워밍업을 한 번에 하나씩 처리한다.
+    // 유저 ID 의 해시로 고정된 락 중 하나를 고르므로 유저가 늘어도 락 수는 늘지 않는다. (다른 유저가 같은 락을 나눠 쓸 수는 있다)
+    private final ReentrantLock[] locks = createLocks();
 
     public UserPoint selectPointById(long id) {
 
-        UserPoint userPoint = userPointTable.selectById(id);
+        UserPoint userPoint = userPointCache.get(id);
+        if (userPoint == null) {
+            userPoint = userPointTable.selectById(id);
+        }
 
         if (userPoint == null) {
-            throw new PointException("입력한 ID가 존재하지 않습니다.");
+            throw USER_NOT_FOUND;
         }
 
         return userPoint;
     }
 
     public UserPoint charge(long id, long amount) {
+        ReentrantLock lock = lockOf(id);
+        lock.lock();
+        try {
+            UserPoint userPoint = selectPointById(id);
 
-        UserPoint userPoint = selectPointById(id);
+            // 금액 유효성 검증
+            PointValidator.validateAmount(amount);
 
-        // 금액 유효성 검증
-        PointValidator.validateAmount(amount);
+            long updateAmount = userPoint.point() + amount;
 
-        long updateAmount = userPoint.point() + amount;
+            // 포인트 충전
+            UserPoint updateUserPoint = userPointTable.insertOrUpdate(id, updateAmount);
+            userPointCache.refresh(updateUserPoint);
 
-        // 포인트 충전
-        UserPoint updateUserPoint = userPointTable.insertOrUpdate(id, updateAmount);
+            // 포인트 충전 내역 추가
+            pointHistoryTable.insert(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
 
-        // 포인트 충전 내역 추가
-        pointHistoryTable.insert(id, amount, TransactionType.CHARGE, System.currentTimeMillis());
-
-        return updateUserPoint;
+            return updateUserPoint;
+        } finally {
+            lock.unlock();
+        }
     }
 
     public UserPoint use(long id, long amount) {
+        ReentrantLock lock = lockOf(id);
+        lock.lock();
+        try {
+            UserPoint userPoint = selectPointById(id);
+            PointValidator.validateUseAmount(userPoint.point(), amount);
+
+            long updateAmount = userPoint.point() - amount;
+            UserPoint updateUserPoint = userPointTable.insertOrUpdate(id, updateAmount);
+            userPointCache.refresh(updateUserPoint);
+
+            // 포인트 사용 내역
+            pointHistoryTable.insert(id, amount, TransactionType.USE, System.currentTimeMillis());
+            return updateUserPoint;
+        } finally {
+            lock.unlock();
+        }
+    }
 
-        UserPoint userPoint = selectPointById(id);
-        PointValidator.validateUseAmount(userPoint.point(), amount);
-
-        long updateAmount = userPoint.point() - amount;
-        UserPoint updateUserPoint = userPointTable.insertOrUpdate(id, updateAmount);
-
-        // 포인트 사용 내역
-        pointHistoryTable.insert(id, amount, TransactionType.USE, System.currentTimeMillis());
-        return updateUserPoint;
+    /**
+     * 워밍업 대상 유저의 포인트를 캐시에 미리 불러온다.
+     * 충전, 사용과 같은 락 안에서 조회와 캐시 저장을 함께 처리하므로 그 사이에 변경된 포인트를 덮어쓰지 않는다.
+     * 포인트가 0인 유저는 아직 없는 유저(UserPoint.empty)와 구분할 수 없으므로 캐시에 담지 않고 Table 조회에 맡긴다.
+     *
+     * @param id 미리 불러올 유저의 ID
+     */
+    public void warmUp(long id) {
+        ReentrantLock lock = lockOf(id);
+        lock.lock();
+        try {
+            if (userPointCache.isWarmUpClosed()) {
+                return;
+            }
+            UserPoint userPoint = userPointTable.selectById(id);
+            if (userPoint != null && userPoint.point() > 0) {
+                userPointCache.preload(userPoint);
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
     public List<PointHistory> history(long id) {
@@ -73,4 +122,16 @@ public class PointService {
 
         return histories;
     }
+
+    private ReentrantLock lockOf(long id) {
+        return locks[Math.floorMod(Long.hashCode(id), LOCK_STRIPES)];
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock(true);
+        }
+        return locks;
+    }
 }
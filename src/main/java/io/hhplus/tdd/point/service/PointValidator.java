@@ -1,25 +1,37 @@
 package io.hhplus.tdd.point.service;
 
+import io.hhplus.tdd.point.PointPolicy;
+import io.hhplus.tdd.point.exception.PointErrorCode;
 import io.hhplus.tdd.point.exception.PointException;
-import org.springframework.http.HttpStatus;
-import org.springframework.web.server.ResponseStatusException;
 
 public class PointValidator {
     // 최대로 충전할 수 있는 금액
-    private static final long MAX_CHARGE_AMOUNT = 10000;
+    private static final long MAX_CHARGE_AMOUNT = PointPolicy.MAX_CHARGE_AMOUNT;
+
+    // 거절 시 매번 예외를 생성하지 않도록 미리 만들어 둔 예외
+    private static final PointException INVALID_ID = new PointException(PointErrorCode.INVALID_ID);
+    private static final PointException INVALID_AMOUNT = new PointException(PointErrorCode.INVALID_AMOUNT);
+    private static final PointException EXCEEDED_MAX_CHARGE_AMOUNT = new PointException(PointErrorCode.EXCEEDED_MAX_CHARGE_AMOUNT);
+    private static final PointException INSUFFICIENT_POINT = new PointException(PointErrorCode.INSUFFICIENT_POINT);
+
+    public static void validateId(long id) {
+        if (id <= 0) {
+            throw INVALID_ID;
+        }
+    }
 
     public static void validateUseAmount(long currentPoint, long useAmount) {
         if (currentPoint < useAmount) {
-            throw new PointException("잔여 포인트가 부족합니다.");
+            throw INSUFFICIENT_POINT;
         }
     }
 
     public static void validateAmount(long amount) {
         if (amount <= 0) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "금액은 0보다 커야 합니다.");
+            throw INVALID_AMOUNT;
         }
         if (amount > MAX_CHARGE_AMOUNT) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "최대 충전 금액은 " + MAX_CHARGE_AMOUNT + "원입니다.");
+            throw EXCEEDED_MAX_CHARGE_AMOUNT;
         }
     }
 }
@@ -0,0 +1,49 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.UserPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 워밍업으로 미리 불러온 유저 포인트 캐시
+ * - 워밍업 대상 유저만 담고, 포인트가 변경되면 이미 담긴 항목만 갱신한다.
+ * - 담기지 않은 유저는 기존처럼 UserPointTable 에서 조회한다.
+ * - 워밍업이 끝난 뒤 늦게 도착한 결과는 버린다.
+ * - 담기와 갱신은 PointService 의 유저별 락 안에서만 호출한다.
+ * - 담긴 유저의 포인트는 PointService 를 통해서만 변경해야 한다. Table 을 직접 변경하면 캐시와 어긋난다.
+ */
+@Component
+public class UserPointCache {
+
+    private final Map<Long, UserPoint> cache = new ConcurrentHashMap<>();
+    private volatile boolean warmUpClosed;
+
+    public UserPoint get(long id) {
+        return cache.get(id);
+    }
+
+    public void preload(UserPoint userPoint) {
+        if (warmUpClosed) {
+            return;
+        }
+        cache.putIfAbsent(userPoint.id(), userPoint);
+    }
+
+    public void refresh(UserPoint userPoint) {
+        cache.computeIfPresent(userPoint.id(), (id, cached) -> userPoint);
+    }
+
+    public void closeWarmUp() {
+        warmUpClosed = true;
+    }
+
+    public boolean isWarmUpClosed() {
+        return warmUpClosed;
+    }
+
+    public int size() {
+        return cache.size();
+    }
+}
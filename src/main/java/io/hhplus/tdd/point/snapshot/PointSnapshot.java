@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.util.List;
+
+/**
+ * 포인트 잔액과 내역 전체를 담는 스냅샷
+ */
+public record PointSnapshot(
+        List<UserPoint> userPoints,
+        List<PointHistory> histories
+) {
+}
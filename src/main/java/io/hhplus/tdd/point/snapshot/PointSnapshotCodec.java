@@ -0,0 +1,278 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 포인트 스냅샷을 컬럼 단위 바이너리 포맷으로 변환하는 코덱
+ * - 레코드를 id 순으로 정렬한 뒤 컬럼별로 기록한다.
+ * - id 와 시각은 직전 값과의 차이(delta)를, 나머지 값은 그대로 zigzag varint 로 기록한다.
+ * - 채널과는 고정 크기 버퍼 하나로만 주고받으므로 파일 크기와 무관하게 메모리 사용량이 일정하다.
+ */
+public final class PointSnapshotCodec {
+
+    // "HPPS"
+    private static final int MAGIC = 0x48505053;
+    private static final byte VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // 컬럼 배열의 최초 크기 (헤더의 레코드 수만 믿고 큰 배열을 잡지 않도록 실제로 읽은 만큼 늘린다)
+    private static final int INITIAL_COLUMN_CAPACITY = 1024;
+    private static final int MAX_COUNT = Integer.MAX_VALUE - 8;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private PointSnapshotCodec() {
+    }
+
+    public static void write(WritableByteChannel channel, PointSnapshot snapshot) throws IOException {
+        List<UserPoint> userPoints = new ArrayList<>(snapshot.userPoints());
+        userPoints.sort(Comparator.comparingLong(UserPoint::id));
+        List<PointHistory> histories = new ArrayList<>(snapshot.histories());
+        histories.sort(Comparator.comparingLong(PointHistory::id));
+
+        Output out = new Output(channel);
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+
+        // 유저 포인트 컬럼
+        out.writeVarLong(userPoints.size());
+        long prev = 0;
+        for (UserPoint userPoint : userPoints) {
+            out.writeVarLong(zigzag(userPoint.id() - prev));
+            prev = userPoint.id();
+        }
+        for (UserPoint userPoint : userPoints) {
+            out.writeVarLong(zigzag(userPoint.point()));
+        }
+        prev = 0;
+        for (UserPoint userPoint : userPoints) {
+            out.writeVarLong(zigzag(userPoint.updateMillis() - prev));
+            prev = userPoint.updateMillis();
+        }
+
+        // 포인트 내역 컬럼
+        out.writeVarLong(histories.size());
+        prev = 0;
+        for (PointHistory history : histories) {
+            out.writeVarLong(zigzag(history.id() - prev));
+            prev = history.id();
+        }
+        for (PointHistory history : histories) {
+            out.writeVarLong(zigzag(history.userId()));
+        }
+        for (PointHistory history : histories) {
+            out.writeVarLong(zigzag(history.amount()));
+        }
+        for (PointHistory history : histories) {
+            out.writeByte((byte) history.type().ordinal());
+        }
+        prev = 0;
+        for (PointHistory history : histories) {
+            out.writeVarLong(zigzag(history.updateMillis() - prev));
+            prev = history.updateMillis();
+        }
+
+        out.flush();
+    }
+
+    /**
+     * 스냅샷을 읽는다. 유저 포인트와 내역은 각각 id 오름차순으로 반환된다.
+     */
+    public static PointSnapshot read(ReadableByteChannel channel) throws IOException {
+        Input in = new Input(channel);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("포인트 스냅샷 파일이 아닙니다.");
+        }
+        byte version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 스냅샷 버전입니다: " + version);
+        }
+
+        // 유저 포인트 컬럼
+        int userCount = in.readCount();
+        long[] userIds = in.readDeltaColumn(userCount);
+        long[] points = in.readColumn(userCount);
+        long[] userMillis = in.readDeltaColumn(userCount);
+        List<UserPoint> userPoints = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            userPoints.add(new UserPoint(userIds[i], points[i], userMillis[i]));
+        }
+
+        // 포인트 내역 컬럼
+        int historyCount = in.readCount();
+        long[] historyIds = in.readDeltaColumn(historyCount);
+        long[] historyUserIds = in.readColumn(historyCount);
+        long[] amounts = in.readColumn(historyCount);
+        TransactionType[] types = in.readTypeColumn(historyCount);
+        long[] historyMillis = in.readDeltaColumn(historyCount);
+        List<PointHistory> histories = new ArrayList<>(historyCount);
+        for (int i = 0; i < historyCount; i++) {
+            histories.add(new PointHistory(historyIds[i], historyUserIds[i], amounts[i], types[i], historyMillis[i]));
+        }
+
+        return new PointSnapshot(userPoints, histories);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Output {
+        // varint 하나의 최대 길이
+        private static final int MAX_VARINT_BYTES = 10;
+
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private Output(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        void writeInt(int value) throws IOException {
+            ensureCapacity(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void writeByte(byte value) throws IOException {
+            ensureCapacity(1);
+            buffer.put(value);
+        }
+
+        void writeVarLong(long value) throws IOException {
+            ensureCapacity(MAX_VARINT_BYTES);
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        private void ensureCapacity(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+    }
+
+    private static final class Input {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        private Input(ReadableByteChannel channel) {
+            this.channel = channel;
+            buffer.flip();
+        }
+
+        int readInt() throws IOException {
+            int value = 0;
+            for (int i = 0; i < Integer.BYTES; i++) {
+                value = (value << 8) | (readByte() & 0xFF);
+            }
+            return value;
+        }
+
+        byte readByte() throws IOException {
+            if (!buffer.hasRemaining()) {
+                fill();
+            }
+            return buffer.get();
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IOException("잘못된 varint 입니다.");
+        }
+
+        int readCount() throws IOException {
+            long count = readVarLong();
+            if (count < 0 || count > MAX_COUNT) {
+                throw new IOException("잘못된 레코드 수입니다: " + count);
+            }
+            return (int) count;
+        }
+
+        long[] readColumn(int count) throws IOException {
+            long[] column = new long[Math.min(count, INITIAL_COLUMN_CAPACITY)];
+            for (int i = 0; i < count; i++) {
+                if (i == column.length) {
+                    column = Arrays.copyOf(column, grownCapacity(column.length, count));
+                }
+                column[i] = unzigzag(readVarLong());
+            }
+            return column;
+        }
+
+        long[] readDeltaColumn(int count) throws IOException {
+            long[] column = new long[Math.min(count, INITIAL_COLUMN_CAPACITY)];
+            long prev = 0;
+            for (int i = 0; i < count; i++) {
+                if (i == column.length) {
+                    column = Arrays.copyOf(column, grownCapacity(column.length, count));
+                }
+                prev += unzigzag(readVarLong());
+                column[i] = prev;
+            }
+            return column;
+        }
+
+        TransactionType[] readTypeColumn(int count) throws IOException {
+            TransactionType[] column = new TransactionType[Math.min(count, INITIAL_COLUMN_CAPACITY)];
+            for (int i = 0; i < count; i++) {
+                if (i == column.length) {
+                    column = Arrays.copyOf(column, grownCapacity(column.length, count));
+                }
+                int ordinal = readByte();
+                if (ordinal < 0 || ordinal >= TYPES.length) {
+                    throw new IOException("알 수 없는 트랜잭션 종류입니다: " + ordinal);
+                }
+                column[i] = TYPES[ordinal];
+            }
+            return column;
+        }
+
+        private static int grownCapacity(int capacity, int count) {
+            return (int) Math.min((long) capacity * 2, count);
+        }
+
+        private void fill() throws IOException {
+            buffer.clear();
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            buffer.flip();
+            if (read < 0) {
+                throw new EOFException("스냅샷 파일이 예상보다 일찍 끝났습니다.");
+            }
+        }
+    }
+}
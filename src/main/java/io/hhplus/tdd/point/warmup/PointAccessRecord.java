@@ -0,0 +1,136 @@
+package io.hhplus.tdd.point.warmup;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 포인트 조회 빈도 기록
+ * 종료 시 파일로 저장하고 다음 기동 시 불러와 워밍업 대상을 고르는 데 사용한다.
+ * - 최대 maxTrackedUsers 명까지만 기록한다. 가득 차면 모든 빈도를 절반으로 줄이고 0이 된 유저를 지워 자리를 만든다.
+ * - 이전 기동의 기록도 불러올 때 절반으로 줄여, 오래된 활동보다 최근 활동의 비중이 크도록 한다.
+ */
+@Component
+public class PointAccessRecord {
+
+    private static final Logger log = LoggerFactory.getLogger(PointAccessRecord.class);
+    private static final String DELIMITER = ",";
+
+    private final Map<Long, AtomicLong> counts = new ConcurrentHashMap<>();
+    private final int maxTrackedUsers;
+    private final Path path;
+
+    public PointAccessRecord(PointWarmUpProperties properties) {
+        this.maxTrackedUsers = properties.maxTrackedUsers();
+        String accessRecordPath = properties.accessRecordPath();
+        this.path = accessRecordPath == null || accessRecordPath.isBlank() ? null : Path.of(accessRecordPath);
+    }
+
+    public void record(long userId) {
+        AtomicLong count = counts.get(userId);
+        if (count == null) {
+            if (counts.size() >= maxTrackedUsers) {
+                age();
+                if (counts.size() >= maxTrackedUsers) {
+                    return;
+                }
+            }
+            count = counts.computeIfAbsent(userId, id -> new AtomicLong());
+        }
+        count.incrementAndGet();
+    }
+
+    /**
+     * 조회 빈도가 높은 순으로 유저 ID 를 반환한다.
+     *
+     * @param limit 반환할 최대 유저 수
+     * @return 조회 빈도 상위 유저 ID 목록
+     */
+    public List<Long> topUsers(int limit) {
+        return sortedByCount().stream()
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // 기록 중에도 빈도가 바뀌므로 값을 복사한 뒤 정렬한다.
+    private List<Map.Entry<Long, Long>> sortedByCount() {
+        return counts.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().get()))
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .toList();
+    }
+
+    // 모든 빈도를 절반으로 줄이고 0이 된 유저를 지운다.
+    private synchronized void age() {
+        if (counts.size() < maxTrackedUsers) {
+            return;
+        }
+        counts.values().removeIf(count -> count.updateAndGet(value -> value / 2) == 0);
+    }
+
+    @PostConstruct
+    void load() {
+        if (path == null || !Files.exists(path)) {
+            return;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(path);
+        } catch (IOException e) {
+            log.warn("조회 빈도 기록을 불러오지 못했습니다: {}", path, e);
+            return;
+        }
+        for (String line : lines) {
+            if (counts.size() >= maxTrackedUsers) {
+                break;
+            }
+            loadLine(line);
+        }
+    }
+
+    // 형식이 잘못된 줄은 건너뛰고 나머지 줄은 계속 불러온다.
+    private void loadLine(String line) {
+        String[] columns = line.split(DELIMITER);
+        if (columns.length != 2) {
+            log.warn("조회 빈도 기록의 잘못된 줄을 건너뜁니다: {}", line);
+            return;
+        }
+        try {
+            long userId = Long.parseLong(columns[0].trim());
+            long count = Long.parseLong(columns[1].trim()) / 2;
+            if (count > 0) {
+                counts.computeIfAbsent(userId, id -> new AtomicLong()).addAndGet(count);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("조회 빈도 기록의 잘못된 줄을 건너뜁니다: {} ({})", line, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void save() {
+        if (path == null) {
+            return;
+        }
+        // 빈도가 높은 순으로 저장해, 불러올 때 상한에 걸리더라도 상위 유저가 남도록 한다.
+        List<String> lines = sortedByCount().stream()
+                .limit(maxTrackedUsers)
+                .map(entry -> entry.getKey() + DELIMITER + entry.getValue())
+                .toList();
+        try {
+            Files.write(path, lines);
+        } catch (IOException e) {
+            log.warn("조회 빈도 기록을 저장하지 못했습니다: {}", path, e);
+        }
+    }
+}
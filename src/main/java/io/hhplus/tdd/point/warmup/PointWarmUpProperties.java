@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.warmup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 기동 시 포인트 캐시 워밍업 설정
+ *
+ * @param userIds          항상 미리 불러올 유저 ID 목록
+ * @param accessRecordPath 유저별 조회 빈도를 저장하는 파일 경로 (비어 있으면 저장하지 않음)
+ * @param topUsers         조회 빈도 기록에서 미리 불러올 상위 유저 수
+ * @param timeout          워밍업 최대 소요 시간
+ * @param parallelism      워밍업 동시 실행 스레드 수
+ * @param maxTrackedUsers  조회 빈도를 기록할 최대 유저 수
+ */
+@ConfigurationProperties("point.warm-up")
+public record PointWarmUpProperties(
+        @DefaultValue List<Long> userIds,
+        String accessRecordPath,
+        @DefaultValue("100") int topUsers,
+        @DefaultValue("10s") Duration timeout,
+        @DefaultValue("8") int parallelism,
+        @DefaultValue("10000") int maxTrackedUsers
+) {
+}
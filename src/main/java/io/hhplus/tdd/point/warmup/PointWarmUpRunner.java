@@ -0,0 +1,70 @@
+package io.hhplus.tdd.point.warmup;
+
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.UserPointCache;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 시 자주 조회되는 유저의 포인트를 미리 캐시에 불러온다.
+ * ApplicationRunner 는 애플리케이션이 ACCEPTING_TRAFFIC 상태가 되기 전에 실행되므로,
+ * 워밍업이 끝나거나 제한 시간이 지나야 /actuator/health/readiness 가 UP 으로 바뀐다.
+ * 그 전에도 요청은 처리되며, 캐시 일관성은 PointService 의 유저별 락으로 보장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PointWarmUpRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(PointWarmUpRunner.class);
+
+    private final PointWarmUpProperties properties;
+    private final PointAccessRecord pointAccessRecord;
+    private final PointService pointService;
+    private final UserPointCache userPointCache;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Set<Long> userIds = new LinkedHashSet<>(properties.userIds());
+        userIds.addAll(pointAccessRecord.topUsers(properties.topUsers()));
+        if (userIds.isEmpty()) {
+            userPointCache.closeWarmUp();
+            return;
+        }
+
+        log.info("포인트 캐시 워밍업 시작: {}명", userIds.size());
+        long start = System.currentTimeMillis();
+
+        List<Callable<Void>> tasks = userIds.stream()
+                .map(userId -> (Callable<Void>) () -> {
+                    pointService.warmUp(userId);
+                    return null;
+                })
+                .toList();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(properties.parallelism(), tasks.size())));
+        try {
+            // 제한 시간이 지나면 남은 작업은 취소된다.
+            executor.invokeAll(tasks, properties.timeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // UserPointTable 은 인터럽트를 무시하므로 취소된 작업도 조회를 마칠 수 있다. 그 결과는 캐시에 담지 않는다.
+            userPointCache.closeWarmUp();
+            executor.shutdownNow();
+        }
+
+        log.info("포인트 캐시 워밍업 완료: {}/{}명, {}ms",
+                userPointCache.size(), userIds.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -0,0 +1,90 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class ApiControllerAdviceTest {
+    /**
+     * 예외 응답 테스트 = 거절 사유별 HTTP 상태 코드와 ErrorResponse 본문 검증
+     */
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserPointTable userPointTable;
+
+    private static void expectError(ResultActions result, PointErrorCode errorCode) throws Exception {
+        result.andExpect(status().is(errorCode.getStatus().value()))
+                .andExpect(jsonPath("$.code").value(String.valueOf(errorCode.getStatus().value())))
+                .andExpect(jsonPath("$.message").value(errorCode.getMessage()));
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 ID인 경우 400 응답")
+    void invalidId() throws Exception {
+        expectError(mockMvc.perform(get("/point/{id}", 0L)), PointErrorCode.INVALID_ID);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 유저인 경우 404 응답")
+    void userNotFound() throws Exception {
+        // given : 조회 결과가 없는 유저
+        when(userPointTable.selectById(7L)).thenReturn(null);
+
+        expectError(mockMvc.perform(get("/point/{id}", 7L)), PointErrorCode.USER_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("0 이하의 금액인 경우 400 응답")
+    void invalidAmount() throws Exception {
+        expectError(mockMvc.perform(patch("/point/{id}/charge", 1L)
+                .contentType(MediaType.APPLICATION_JSON).content("0")), PointErrorCode.INVALID_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("최대 충전 금액을 초과하는 경우 400 응답")
+    void exceededMaxChargeAmount() throws Exception {
+        expectError(mockMvc.perform(patch("/point/{id}/charge", 1L)
+                .contentType(MediaType.APPLICATION_JSON).content("20000")), PointErrorCode.EXCEEDED_MAX_CHARGE_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("잔여 포인트가 부족한 경우 400 응답")
+    void insufficientPoint() throws Exception {
+        // given : 포인트가 100인 유저
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 100L, System.currentTimeMillis()));
+
+        expectError(mockMvc.perform(patch("/point/{id}/use", 1L)
+                .contentType(MediaType.APPLICATION_JSON).content("1000")), PointErrorCode.INSUFFICIENT_POINT);
+    }
+
+    @Test
+    @DisplayName("처리되지 않은 예외인 경우 500 응답")
+    void internalError() throws Exception {
+        // given : 조회 중 예기치 못한 예외 발생
+        when(userPointTable.selectById(8L)).thenThrow(new IllegalStateException());
+
+        mockMvc.perform(get("/point/{id}", 8L))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.code").value("500"))
+                .andExpect(jsonPath("$.message").value("에러가 발생했습니다."));
+    }
+}
@@ -1,5 +1,6 @@
 package io.hhplus.tdd.point;
 
+import io.hhplus.tdd.point.exception.PointException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -7,7 +8,6 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.web.server.ResponseStatusException;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -37,7 +37,7 @@ public class PointControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isBadRequest())  // 이제 400 상태 코드가 반환됩니다.
                 .andExpect(result -> assertThat(result.getResolvedException())
-                        .isInstanceOf(ResponseStatusException.class)
+                        .isInstanceOf(PointException.class)
                         .hasMessageContaining("ID는 0 이상의 숫자여야 합니다."));
     }
 
@@ -52,7 +52,7 @@ public class PointControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(result ->
                         assertThat(result.getResolvedException())
-                                .isInstanceOf(ResponseStatusException.class)
+                                .isInstanceOf(PointException.class)
                                 .hasMessageContaining("금액은 0보다 커야 합니다."));
     }
 
@@ -66,7 +66,7 @@ public class PointControllerTest {
                         .contentType(MediaType.APPLICATION_JSON).content("-100"))
                 .andExpect(status().isBadRequest())
                 .andExpect(result -> assertThat(result.getResolvedException())
-                        .isInstanceOf(ResponseStatusException.class)
+                        .isInstanceOf(PointException.class)
                         .hasMessageContaining("금액은 0보다 커야 합니다."));
     }
 
@@ -82,7 +82,7 @@ public class PointControllerTest {
                         .content(String.valueOf(overMaxPoint)))
                 .andExpect(status().isBadRequest())
                 .andExpect(result -> assertThat(result.getResolvedException())
-                        .isInstanceOf(ResponseStatusException.class)
+                        .isInstanceOf(PointException.class)
                         .hasMessageContaining("최대 충전 금액은 10000원입니다."));
     }
 }
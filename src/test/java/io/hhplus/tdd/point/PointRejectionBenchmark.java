@@ -0,0 +1,171 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.ErrorResponse;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
+
+import java.lang.management.ManagementFactory;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 거절 요청 한 건당 메모리 할당량 벤치마크 (./gradlew benchmark 로 실행)
+ * 변경 전 방식(요청마다 예외와 응답 본문을 새로 생성)을 재현한 /legacy 경로와 현재 경로를
+ * 같은 MockMvc 요청으로 보내고, 요청을 처리한 스레드의 할당 바이트 수를 비교한다.
+ * /legacy 경로의 예외는 변경 전 ApiControllerAdvice 를 재현한 LegacyApiControllerAdvice 가 처리한다.
+ * 측정값은 JIT 상태에 따라 달라지므로 단언하지 않고 로그로만 남긴다.
+ */
+@Tag("benchmark")
+@SpringBootTest
+@AutoConfigureMockMvc
+@Import({PointRejectionBenchmark.LegacyPointController.class, PointRejectionBenchmark.LegacyApiControllerAdvice.class})
+public class PointRejectionBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(PointRejectionBenchmark.class);
+    private static final int WARM_UP_ITERATIONS = 5_000;
+    private static final int MEASURE_ITERATIONS = 5_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    // 조회 지연(throttle) 없이 거절 경로만 측정하기 위해 Table 을 대체한다.
+    @MockBean
+    private UserPointTable userPointTable;
+
+    private static RequestBuilder request(String path, long amount) {
+        return patch(path, 1L).contentType(MediaType.APPLICATION_JSON).content(String.valueOf(amount));
+    }
+
+    private double allocatedBytesPerRequest(RequestBuilder request, HttpStatus expected) throws Exception {
+        mockMvc.perform(request).andExpect(status().is(expected.value()));
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            mockMvc.perform(request);
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            mockMvc.perform(request);
+        }
+        return (double) (THREAD_MX_BEAN.getThreadAllocatedBytes(threadId) - before) / MEASURE_ITERATIONS;
+    }
+
+    private void compare(String name, long amount, String legacyPath, String path, HttpStatus legacyStatus) throws Exception {
+        double legacy = allocatedBytesPerRequest(request(legacyPath, amount), legacyStatus);
+        double current = allocatedBytesPerRequest(request(path, amount), HttpStatus.BAD_REQUEST);
+        log.info("{} : 변경 전 {} bytes/req, 변경 후 {} bytes/req, 차이 {} bytes/req",
+                name, Math.round(legacy), Math.round(current), Math.round(legacy - current));
+    }
+
+    @Test
+    @DisplayName("거절 요청 한 건당 할당량 비교")
+    void rejectionAllocation() throws Exception {
+        when(userPointTable.selectById(anyLong())).thenReturn(new UserPoint(1L, 0L, System.currentTimeMillis()));
+
+        compare("0 이하 금액", 0L,
+                "/legacy/point/{id}/charge", "/point/{id}/charge", HttpStatus.BAD_REQUEST);
+        compare("최대 충전 금액 초과", PointPolicy.MAX_CHARGE_AMOUNT + 1,
+                "/legacy/point/{id}/charge", "/point/{id}/charge", HttpStatus.BAD_REQUEST);
+        // 변경 전에는 잔액 부족이 공통 예외 처리로 넘어가 500 으로 응답했다.
+        compare("잔여 포인트 부족", 1000L,
+                "/legacy/point/{id}/use", "/point/{id}/use", HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    /**
+     * 변경 전의 검증 방식을 재현한 컨트롤러
+     */
+    @RestController
+    @RequestMapping("/legacy/point")
+    static class LegacyPointController {
+
+        private final PointService pointService;
+
+        LegacyPointController(PointService pointService) {
+            this.pointService = pointService;
+        }
+
+        @PatchMapping("{id}/charge")
+        public UserPoint charge(@PathVariable long id, @RequestBody long amount) {
+            validateId(id);
+            validateAmount(amount);
+            return pointService.charge(id, amount);
+        }
+
+        @PatchMapping("{id}/use")
+        public UserPoint use(@PathVariable long id, @RequestBody long amount) {
+            validateId(id);
+            validateAmount(amount);
+            UserPoint userPoint = pointService.selectPointById(id);
+            if (userPoint.point() < amount) {
+                throw new LegacyPointException("잔여 포인트가 부족합니다.");
+            }
+            return pointService.use(id, amount);
+        }
+
+        private static void validateId(long id) {
+            if (id <= 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "ID는 0 이상의 숫자여야 합니다.");
+            }
+        }
+
+        private static void validateAmount(long amount) {
+            if (amount <= 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "금액은 0보다 커야 합니다.");
+            }
+            if (amount > PointPolicy.MAX_CHARGE_AMOUNT) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "최대 충전 금액은 " + PointPolicy.MAX_CHARGE_AMOUNT + "원입니다.");
+            }
+        }
+    }
+
+    /**
+     * 변경 전의 ApiControllerAdvice 를 재현한 예외 처리
+     * LegacyPointController 에만 적용하고, 현재 ApiControllerAdvice 보다 먼저 처리한다.
+     */
+    @RestControllerAdvice(assignableTypes = LegacyPointController.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    static class LegacyApiControllerAdvice extends ResponseEntityExceptionHandler {
+        @ExceptionHandler(value = Exception.class)
+        public ResponseEntity<ErrorResponse> handleException(Exception e) {
+            return ResponseEntity.status(500).body(new ErrorResponse("500", "에러가 발생했습니다."));
+        }
+    }
+
+    // 변경 전 PointException 과 같이 매번 스택 트레이스를 기록하는 예외
+    static class LegacyPointException extends RuntimeException {
+        LegacyPointException(String message) {
+            super(message);
+        }
+    }
+}
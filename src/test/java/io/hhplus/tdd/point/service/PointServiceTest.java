@@ -11,11 +11,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.web.server.ResponseStatusException;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,6 +37,9 @@ public class PointServiceTest {
     @Mock
     private PointHistoryTable pointHistoryTable;
 
+    @Mock
+    private UserPointCache userPointCache;
+
     // 포인트 조회
     private void pointInquiry(long id, long currentPoint) {
         UserPoint userPoint = new UserPoint(id, currentPoint, System.currentTimeMillis());
@@ -138,7 +142,7 @@ public class PointServiceTest {
 
         // when, then : 포인트 충전 시 예외 발생
         assertThatThrownBy(() -> pointService.charge(id, overMaxAmount))
-                .isInstanceOf(ResponseStatusException.class)
+                .isInstanceOf(PointException.class)
                 .hasMessageContaining("최대 충전 금액은 10000원입니다.");
     }
 
@@ -174,4 +178,53 @@ public class PointServiceTest {
         verify(userPointTable).insertOrUpdate(eq(id), eq(currentPoint + chargePoint));
         verify(pointHistoryTable).insert(eq(id), eq(chargePoint), eq(TransactionType.CHARGE), anyLong());
     }
+
+    @Test
+    @DisplayName("캐시에 있는 유저는 Table 을 조회하지 않는다")
+    void selectCachedPoint() {
+        // given : 캐시에 담긴 유저
+        long id = 1L;
+        UserPoint cached = new UserPoint(id, 1000L, System.currentTimeMillis());
+        when(userPointCache.get(id)).thenReturn(cached);
+
+        // when : 포인트 조회
+        UserPoint userPoint = pointService.selectPointById(id);
+
+        // then : 캐시 값을 반환하고 Table 은 조회하지 않는다
+        assertThat(userPoint).isEqualTo(cached);
+        verify(userPointTable, never()).selectById(anyLong());
+    }
+
+    @Test
+    @DisplayName("포인트 충전 시 캐시가 갱신된다")
+    void chargeRefreshesCache() {
+        // given : 캐시에 담긴 포인트 1000인 유저
+        long id = 1L;
+        when(userPointCache.get(id)).thenReturn(new UserPoint(id, 1000L, System.currentTimeMillis()));
+        UserPoint updated = new UserPoint(id, 1200L, System.currentTimeMillis());
+        when(userPointTable.insertOrUpdate(id, 1200L)).thenReturn(updated);
+
+        // when : 200 충전
+        pointService.charge(id, 200L);
+
+        // then : 변경된 포인트로 캐시 갱신
+        verify(userPointCache).refresh(updated);
+        verify(userPointTable, never()).selectById(anyLong());
+    }
+
+    @Test
+    @DisplayName("포인트 사용 시 캐시가 갱신된다")
+    void useRefreshesCache() {
+        // given : 캐시에 담긴 포인트 1000인 유저
+        long id = 1L;
+        when(userPointCache.get(id)).thenReturn(new UserPoint(id, 1000L, System.currentTimeMillis()));
+        UserPoint updated = new UserPoint(id, 700L, System.currentTimeMillis());
+        when(userPointTable.insertOrUpdate(id, 700L)).thenReturn(updated);
+
+        // when : 300 사용
+        pointService.use(id, 300L);
+
+        // then : 변경된 포인트로 캐시 갱신
+        verify(userPointCache).refresh(updated);
+    }
 }
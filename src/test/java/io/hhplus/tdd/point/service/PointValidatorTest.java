@@ -0,0 +1,52 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.PointPolicy;
+import io.hhplus.tdd.point.exception.PointErrorCode;
+import io.hhplus.tdd.point.exception.PointException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+public class PointValidatorTest {
+    /**
+     * 검증기 테스트 = 거절 사유 확인
+     * 거절 경로의 메모리 할당량은 PointRejectionBenchmark 로 측정한다.
+     */
+
+    @Test
+    @DisplayName("거절 사유별 예외와 메시지 확인")
+    void rejectionReasons() {
+        assertThatThrownBy(() -> PointValidator.validateId(0))
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining(PointErrorCode.INVALID_ID.getMessage());
+        assertThatThrownBy(() -> PointValidator.validateAmount(-1))
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining(PointErrorCode.INVALID_AMOUNT.getMessage());
+        assertThatThrownBy(() -> PointValidator.validateAmount(PointPolicy.MAX_CHARGE_AMOUNT + 1))
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining("최대 충전 금액은 10000원입니다.");
+        assertThatThrownBy(() -> PointValidator.validateUseAmount(100, 1000))
+                .isInstanceOf(PointException.class)
+                .hasMessageContaining(PointErrorCode.INSUFFICIENT_POINT.getMessage());
+    }
+
+    @Test
+    @DisplayName("거절 예외는 재사용되며 스택 트레이스와 suppressed 예외를 기록하지 않는다")
+    void rejectionIsStacklessAndImmutable() {
+        // given : 같은 사유로 두 번 거절
+        PointException first = catchThrowableOfType(() -> PointValidator.validateUseAmount(0, 1), PointException.class);
+        PointException second = catchThrowableOfType(() -> PointValidator.validateUseAmount(0, 1), PointException.class);
+
+        // when : 공유 인스턴스에 suppressed 예외 추가 시도
+        first.addSuppressed(new IllegalStateException());
+
+        // then : 같은 인스턴스이고 상태가 바뀌지 않는다
+        assertThat(second).isSameAs(first);
+        assertThat(first.getStackTrace()).isEmpty();
+        assertThat(first.getSuppressed()).isEmpty();
+        assertThat(first.getErrorCode()).isEqualTo(PointErrorCode.INSUFFICIENT_POINT);
+    }
+}
@@ -0,0 +1,132 @@
+package io.hhplus.tdd.point.snapshot;
+
+import io.hhplus.tdd.point.PointHistory;
+import io.hhplus.tdd.point.TransactionType;
+import io.hhplus.tdd.point.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PointSnapshotCodecTest {
+
+    private static byte[] encode(PointSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PointSnapshotCodec.write(Channels.newChannel(out), snapshot);
+        return out.toByteArray();
+    }
+
+    private static PointSnapshot decode(byte[] bytes) throws IOException {
+        return PointSnapshotCodec.read(Channels.newChannel(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    @DisplayName("스냅샷을 저장했다가 다시 읽으면 id 순으로 동일한 데이터가 복원된다")
+    void roundTrip() throws IOException {
+        // given : 정렬되지 않은 유저 포인트와 내역
+        long now = System.currentTimeMillis();
+        List<UserPoint> userPoints = List.of(
+                new UserPoint(3L, 500L, now),
+                new UserPoint(1L, 0L, now - 1000L),
+                new UserPoint(Long.MAX_VALUE, 10000L, now + 5L)
+        );
+        List<PointHistory> histories = List.of(
+                new PointHistory(2L, 1L, 300L, TransactionType.USE, now),
+                new PointHistory(1L, 1L, 300L, TransactionType.CHARGE, now - 10L),
+                new PointHistory(3L, 3L, 500L, TransactionType.CHARGE, now + 20L)
+        );
+
+        // when : 인코딩 후 디코딩
+        PointSnapshot decoded = decode(encode(new PointSnapshot(userPoints, histories)));
+
+        // then : id 순으로 정렬된 동일한 레코드
+        assertThat(decoded.userPoints()).extracting(UserPoint::id)
+                .containsExactly(1L, 3L, Long.MAX_VALUE);
+        assertThat(decoded.userPoints()).containsExactlyInAnyOrderElementsOf(userPoints);
+        assertThat(decoded.histories()).extracting(PointHistory::id)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(decoded.histories()).containsExactlyInAnyOrderElementsOf(histories);
+    }
+
+    @Test
+    @DisplayName("버퍼 크기를 넘는 대량의 레코드도 복원된다")
+    void roundTripLargeSnapshot() throws IOException {
+        // given : 10만 건의 내역
+        int count = 100_000;
+        long now = System.currentTimeMillis();
+        PointHistory[] histories = new PointHistory[count];
+        for (int i = 0; i < count; i++) {
+            TransactionType type = i % 2 == 0 ? TransactionType.CHARGE : TransactionType.USE;
+            histories[i] = new PointHistory(i + 1, i % 100, i % 10000, type, now + i);
+        }
+        PointSnapshot snapshot = new PointSnapshot(List.of(), Arrays.asList(histories));
+
+        // when : 인코딩 후 디코딩
+        byte[] bytes = encode(snapshot);
+        PointSnapshot decoded = decode(bytes);
+
+        // then : 모든 레코드가 그대로 복원되고, 레코드당 평균 8바이트 미만으로 기록된다
+        assertThat(decoded.histories()).containsExactly(histories);
+        assertThat(bytes.length).isLessThan(count * 8);
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일이 아닌 경우 예외 발생")
+    void invalidMagic() {
+        // given : 잘못된 헤더
+        byte[] bytes = {0, 1, 2, 3, 1};
+
+        // when, then : 예외 발생
+        assertThatThrownBy(() -> decode(bytes))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("포인트 스냅샷 파일이 아닙니다.");
+    }
+
+    @Test
+    @DisplayName("레코드 수가 손상된 경우 메모리를 미리 잡지 않고 예외 발생")
+    void corruptCount() {
+        // given : 헤더 뒤 레코드 수가 2^30 이고 데이터는 없는 파일
+        byte[] bytes = {0x48, 0x50, 0x50, 0x53, 1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x04};
+
+        // when, then : OutOfMemoryError 가 아닌 IOException 발생
+        assertThatThrownBy(() -> decode(bytes))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("스냅샷 파일이 예상보다 일찍 끝났습니다.");
+    }
+
+    @Test
+    @DisplayName("레코드 수가 허용 범위를 넘는 경우 예외 발생")
+    void countOutOfRange() {
+        // given : 레코드 수가 배열로 담을 수 있는 크기보다 큰 파일
+        byte[] bytes = {0x48, 0x50, 0x50, 0x53, 1, (byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0x0f};
+
+        // when, then : 예외 발생
+        assertThatThrownBy(() -> decode(bytes))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("잘못된 레코드 수입니다");
+    }
+
+    @Test
+    @DisplayName("파일이 중간에 잘린 경우 예외 발생")
+    void truncated() throws IOException {
+        // given : 정상 스냅샷의 마지막 바이트를 잘라낸 파일
+        long now = System.currentTimeMillis();
+        byte[] bytes = encode(new PointSnapshot(
+                List.of(new UserPoint(1L, 100L, now)),
+                List.of(new PointHistory(1L, 1L, 100L, TransactionType.CHARGE, now))));
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+
+        // when, then : 예외 발생
+        assertThatThrownBy(() -> decode(truncated))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("스냅샷 파일이 예상보다 일찍 끝났습니다.");
+    }
+}
@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PointAccessRecordTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private static PointAccessRecord accessRecord(String path, int maxTrackedUsers) {
+        return new PointAccessRecord(new PointWarmUpProperties(List.of(), path, 100, Duration.ofSeconds(10), 4, maxTrackedUsers));
+    }
+
+    @Test
+    @DisplayName("조회 빈도가 높은 순으로 유저를 반환한다")
+    void topUsersByAccessCount() {
+        PointAccessRecord accessRecord = accessRecord(null, 100);
+        accessRecord.record(1L);
+        accessRecord.record(2L);
+        accessRecord.record(2L);
+        accessRecord.record(3L);
+        accessRecord.record(3L);
+        accessRecord.record(3L);
+
+        assertThat(accessRecord.topUsers(2)).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("임의의 ID 요청이 쏟아져도 기록되는 유저 수는 상한을 넘지 않고, 자주 조회되는 유저는 남는다")
+    void boundedUnderRandomIds() {
+        // given : 최대 100명까지 기록
+        PointAccessRecord accessRecord = accessRecord(null, 100);
+
+        // when : 임의의 ID 10만 건 사이에 유저 1 이 10건마다 한 번씩 조회
+        for (long id = 1_000; id < 101_000; id++) {
+            accessRecord.record(id);
+            if (id % 10 == 0) {
+                accessRecord.record(1L);
+            }
+        }
+
+        // then : 기록된 유저는 100명 이하이고 유저 1 이 가장 자주 조회된 유저이다
+        assertThat(accessRecord.topUsers(Integer.MAX_VALUE)).hasSizeLessThanOrEqualTo(100);
+        assertThat(accessRecord.topUsers(1)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("이전 기동의 기록은 절반으로 줄여 불러온다")
+    void agePreviousRecordOnLoad() throws IOException {
+        // given : 유저 1 은 10번, 유저 2 는 1번 조회한 뒤 저장
+        String path = tempDir.resolve("access-record.csv").toString();
+        PointAccessRecord previous = accessRecord(path, 100);
+        for (int i = 0; i < 10; i++) {
+            previous.record(1L);
+        }
+        previous.record(2L);
+        previous.save();
+
+        // when : 다시 불러온 뒤 유저 3 을 6번 조회
+        PointAccessRecord current = accessRecord(path, 100);
+        current.load();
+        for (int i = 0; i < 6; i++) {
+            current.record(3L);
+        }
+
+        // then : 유저 1 은 5, 유저 2 는 0 이 되어 사라지고, 최근 조회한 유저 3 이 가장 앞선다
+        assertThat(Files.readAllLines(Path.of(path))).containsExactly("1,10", "2,1");
+        assertThat(current.topUsers(Integer.MAX_VALUE)).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 줄만 건너뛰고 나머지 기록은 불러온다")
+    void skipMalformedLineOnLoad() throws IOException {
+        // given : 중간에 잘못된 줄이 섞인 기록 파일
+        Path path = tempDir.resolve("access-record.csv");
+        Files.write(path, List.of("1,10", "abc,4", "2", "3,x", "4,8"));
+
+        // when : 불러오기
+        PointAccessRecord accessRecord = accessRecord(path.toString(), 100);
+        accessRecord.load();
+
+        // then : 잘못된 줄의 앞뒤 유저가 모두 불러와진다
+        assertThat(accessRecord.topUsers(Integer.MAX_VALUE)).containsExactly(1L, 4L);
+    }
+}
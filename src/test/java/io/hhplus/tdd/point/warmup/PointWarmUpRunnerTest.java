@@ -0,0 +1,178 @@
+package io.hhplus.tdd.point.warmup;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.UserPoint;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.UserPointCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultApplicationArguments;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PointWarmUpRunnerTest {
+
+    private final UserPointTable userPointTable = mock(UserPointTable.class);
+    private final PointHistoryTable pointHistoryTable = mock(PointHistoryTable.class);
+    private final UserPointCache userPointCache = new UserPointCache();
+    private final PointService pointService = new PointService(userPointTable, pointHistoryTable, userPointCache);
+
+    private PointWarmUpRunner runner(List<Long> userIds, PointAccessRecord accessRecord, Duration timeout) {
+        PointWarmUpProperties properties = new PointWarmUpProperties(userIds, null, 100, timeout, 4, 10000);
+        return new PointWarmUpRunner(properties, accessRecord, pointService, userPointCache);
+    }
+
+    private static PointAccessRecord emptyAccessRecord() {
+        return new PointAccessRecord(new PointWarmUpProperties(List.of(), null, 100, Duration.ofSeconds(10), 4, 10000));
+    }
+
+    // UserPointTable 의 throttle 처럼 인터럽트를 무시하고 latch 가 열릴 때까지 대기
+    private static void awaitIgnoringInterrupt(CountDownLatch latch) {
+        while (true) {
+            try {
+                latch.await();
+                return;
+            } catch (InterruptedException ignored) {
+            }
+        }
+    }
+
+    // 스레드가 락을 기다리며 멈출 때까지 대기
+    private static void awaitBlocked(Thread thread) {
+        while (thread.getState() != Thread.State.WAITING || LockSupport.getBlocker(thread) == null) {
+            assertThat(thread.isAlive()).isTrue();
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    @DisplayName("설정된 유저와 자주 조회된 유저의 포인트를 미리 캐시에 불러온다")
+    void preloadConfiguredAndFrequentUsers() {
+        // given : 설정된 유저 1, 조회 기록이 있는 유저 2
+        when(userPointTable.selectById(1L)).thenReturn(new UserPoint(1L, 100L, 0L));
+        when(userPointTable.selectById(2L)).thenReturn(new UserPoint(2L, 200L, 0L));
+        PointAccessRecord accessRecord = emptyAccessRecord();
+        accessRecord.record(2L);
+
+        // when : 워밍업 실행
+        runner(List.of(1L), accessRecord, Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+        // then : 두 유저 모두 캐시에 존재하고, 워밍업은 종료된다
+        assertThat(userPointCache.get(1L).point()).isEqualTo(100L);
+        assertThat(userPointCache.get(2L).point()).isEqualTo(200L);
+        assertThat(userPointCache.isWarmUpClosed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("워밍업 대상이 없으면 조회 없이 워밍업을 종료한다")
+    void skipWhenNoTargets() {
+        runner(List.of(), emptyAccessRecord(), Duration.ofSeconds(10)).run(new DefaultApplicationArguments());
+
+        assertThat(userPointCache.size()).isZero();
+        assertThat(userPointCache.isWarmUpClosed()).isTrue();
+        verify(userPointTable, never()).selectById(anyLong());
+    }
+
+    @Test
+    @DisplayName("워밍업 때 없던 유저는 캐시에 담지 않아, 이후 Table 에 직접 기록된 포인트로 조회와 충전이 이루어진다")
+    void skipEmptyUserThenWriteTableDirectly() {
+        // given : 실제 Table 로 동작하는 서비스, 워밍업 시점에 유저 1 은 없다
+        UserPointTable table = new UserPointTable();
+        UserPointCache cache = new UserPointCache();
+        PointService service = new PointService(table, new PointHistoryTable(), cache);
+        PointWarmUpProperties properties = new PointWarmUpProperties(List.of(1L), null, 100, Duration.ofSeconds(10), 4, 10000);
+        new PointWarmUpRunner(properties, emptyAccessRecord(), service, cache).run(new DefaultApplicationArguments());
+
+        // when : 워밍업 이후 Table 에 직접 500 을 기록한 뒤 50 충전
+        table.insertOrUpdate(1L, 500L);
+        UserPoint selected = service.selectPointById(1L);
+        UserPoint charged = service.charge(1L, 50L);
+
+        // then : 빈 유저는 캐시에 없고, 직접 기록한 포인트에 이어서 충전된다
+        assertThat(cache.get(1L)).isNull();
+        assertThat(selected.point()).isEqualTo(500L);
+        assertThat(charged.point()).isEqualTo(550L);
+        assertThat(table.selectById(1L).point()).isEqualTo(550L);
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지난 뒤 늦게 끝난 조회 결과는 캐시에 담지 않는다")
+    void dropLateResultAfterTimeout() throws InterruptedException {
+        // given : 인터럽트를 무시하고 release 가 열릴 때까지 끝나지 않는 조회
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointTable.selectById(1L)).thenAnswer(invocation -> {
+            started.countDown();
+            awaitIgnoringInterrupt(release);
+            return new UserPoint(1L, 100L, 0L);
+        });
+
+        // when : 조회가 끝나기 전에 제한 시간이 지나 워밍업이 종료된 뒤, 멈춰 있던 조회를 끝낸다
+        runner(List.of(1L), emptyAccessRecord(), Duration.ofMillis(500)).run(new DefaultApplicationArguments());
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(userPointCache.isWarmUpClosed()).isTrue();
+        release.countDown();
+        // 같은 유저의 락을 쓰는 워밍업을 다시 호출해, 늦게 끝난 조회가 락을 놓을 때까지 기다린다
+        pointService.warmUp(1L);
+
+        // then : 늦게 끝난 조회 결과는 버려진다
+        assertThat(userPointCache.get(1L)).isNull();
+        verify(userPointTable).selectById(1L);
+    }
+
+    @Test
+    @DisplayName("워밍업 조회 중에 들어온 충전이 캐시에 반영된다")
+    void chargeDuringPreload() throws Exception {
+        // given : 워밍업 조회는 충전이 시작될 때까지 멈춰 있고, 조회 시작 시점의 포인트(100)를 반환한다
+        AtomicLong stored = new AtomicLong(100L);
+        CountDownLatch preloading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userPointTable.selectById(1L)).thenAnswer(invocation -> {
+            long point = stored.get();
+            if (preloading.getCount() > 0) {
+                preloading.countDown();
+                release.await();
+            }
+            return new UserPoint(1L, point, 0L);
+        });
+        when(userPointTable.insertOrUpdate(eq(1L), anyLong())).thenAnswer(invocation -> {
+            long point = invocation.getArgument(1);
+            stored.set(point);
+            return new UserPoint(1L, point, System.currentTimeMillis());
+        });
+
+        // when : 워밍업 조회 도중 50 충전
+        CompletableFuture<Void> warmUp = CompletableFuture.runAsync(() ->
+                runner(List.of(1L), emptyAccessRecord(), Duration.ofSeconds(10)).run(new DefaultApplicationArguments()));
+        assertThat(preloading.await(5, TimeUnit.SECONDS)).isTrue();
+        FutureTask<UserPoint> charge = new FutureTask<>(() -> pointService.charge(1L, 50L));
+        Thread chargeThread = new Thread(charge);
+        chargeThread.start();
+        // 충전이 워밍업의 락을 기다리며 멈춘 것을 확인한 뒤 워밍업 조회를 끝낸다
+        awaitBlocked(chargeThread);
+        release.countDown();
+        warmUp.join();
+        charge.get(5, TimeUnit.SECONDS);
+
+        // then : 캐시와 Table 모두 충전된 포인트를 가진다
+        assertThat(stored.get()).isEqualTo(150L);
+        assertThat(userPointCache.get(1L).point()).isEqualTo(150L);
+        assertThat(pointService.selectPointById(1L).point()).isEqualTo(150L);
+    }
+}